@@ -28,7 +28,26 @@ class ByteStreamClientChannel implements ClientCommunicationChannel {
   @override
   Stream<Notification> notificationStream;
 
-  ByteStreamClientChannel(this.input, this.output) {
+  /**
+   * The amount of time to wait for a response to a request, or `null` if
+   * requests should wait indefinitely.
+   */
+  final Duration timeout;
+
+  /**
+   * The requests that have been sent to the server and are waiting for a
+   * response, or `null` if no request has been sent yet. The table is created
+   * by the first request so that the responses, and the notifications that
+   * share their input, stay buffered until someone listens.
+   */
+  PendingResponses _pendingResponses;
+
+  /**
+   * Initialize a newly created channel to read from the given [input] and
+   * write to the given [output]. If a [timeout] is given, requests that don't
+   * receive a response within that time fail with a [TimeoutException].
+   */
+  ByteStreamClientChannel(this.input, this.output, {this.timeout}) {
     Stream jsonStream = input
         .transform((new Utf8Codec()).decoder)
         .transform(new LineSplitter())
@@ -52,9 +71,13 @@ class ByteStreamClientChannel implements ClientCommunicationChannel {
 
   @override
   Future<Response> sendRequest(Request request) {
-    String id = request.id;
-    output.write(JSON.encode(request.toJson()) + '\n');
-    return responseStream.firstWhere((Response response) => response.id == id);
+    if (_pendingResponses == null) {
+      _pendingResponses =
+          new PendingResponses(responseStream, timeout: timeout);
+    }
+    return _pendingResponses.send(request.id, () {
+      output.write(JSON.encode(request.toJson()) + '\n');
+    });
   }
 }
 
@@ -5,6 +5,7 @@
 library channel;
 
 import 'dart:async';
+import 'dart:collection';
 import 'dart:convert';
 
 import 'package:analysis_server/src/protocol.dart';
@@ -107,6 +108,106 @@ class NotificationConverter extends Converter<Map, Notification> {
       new ChannelChunkSink<Map, Notification>(this, sink);
 }
 
+/**
+ * Instances of the class [PendingResponses] match the [Response]s received
+ * from a server with the [Request]s that are still waiting for them.
+ */
+class PendingResponses {
+  /**
+   * The amount of time to wait for a response before failing the request with
+   * a [TimeoutException], or `null` if requests should wait indefinitely.
+   */
+  final Duration timeout;
+
+  /**
+   * A table mapping the ids of the requests that have not yet received a
+   * response to the information needed to complete them.
+   */
+  final Map<String, _PendingResponse> _pending =
+      new HashMap<String, _PendingResponse>();
+
+  /**
+   * Initialize a newly created table to complete requests with the responses
+   * in the given [responseStream].
+   */
+  PendingResponses(Stream<Response> responseStream, {this.timeout}) {
+    responseStream.listen(_responseReceived,
+        onError: _responseStreamFailed, onDone: _responseStreamClosed);
+  }
+
+  /**
+   * Return the number of requests that are waiting for a response.
+   */
+  int get length => _pending.length;
+
+  /**
+   * Use the given [write] function to send the request with the given [id],
+   * and return a future that will be completed with the response to it. If a
+   * request with the same id is still waiting for a response, the request is
+   * not sent and the returned future fails with an [ArgumentError].
+   */
+  Future<Response> send(String id, void write()) {
+    if (_pending.containsKey(id)) {
+      return new Future.error(new ArgumentError(
+          'A request with the id $id is already waiting for a response'));
+    }
+    _PendingResponse pending = new _PendingResponse();
+    _pending[id] = pending;
+    if (timeout != null) {
+      pending.timer = new Timer(timeout, () {
+        if (_pending.remove(id) != null) {
+          pending.completer.completeError(new TimeoutException(
+              'No response to request $id', timeout));
+        }
+      });
+    }
+    write();
+    return pending.completer.future;
+  }
+
+  /**
+   * Complete the request that the given [response] is for, if it is still
+   * waiting.
+   */
+  void _responseReceived(Response response) {
+    _PendingResponse pending = _pending.remove(response.id);
+    if (pending != null) {
+      pending.cancelTimer();
+      pending.completer.complete(response);
+    }
+  }
+
+  /**
+   * Fail all of the requests that are still waiting with the given [error].
+   */
+  void _failAll(Object error, [StackTrace stackTrace]) {
+    List<_PendingResponse> abandoned = _pending.values.toList();
+    _pending.clear();
+    for (_PendingResponse pending in abandoned) {
+      pending.cancelTimer();
+      pending.completer.completeError(error, stackTrace);
+    }
+  }
+
+  /**
+   * No more responses will be received, so fail all of the requests that are
+   * still waiting.
+   */
+  void _responseStreamClosed() {
+    _failAll(
+        new StateError('Connection closed before a response was received'));
+  }
+
+  /**
+   * The response stream reported an [error], such as input that could not be
+   * decoded. It can't be attributed to a single request, so fail all of the
+   * requests that are still waiting.
+   */
+  void _responseStreamFailed(Object error, StackTrace stackTrace) {
+    _failAll(error, stackTrace);
+  }
+}
+
 /**
  * Instances of the class [ResponseConverter] convert JSON maps to [Response]s.
  */
@@ -150,3 +251,29 @@ abstract class ServerCommunicationChannel {
    */
   void sendResponse(Response response);
 }
+
+/**
+ * The information needed to complete a request that is waiting for a
+ * response.
+ */
+class _PendingResponse {
+  /**
+   * The completer used to return the response.
+   */
+  final Completer<Response> completer = new Completer<Response>();
+
+  /**
+   * The timer that will fail the request if no response arrives in time, or
+   * `null` if the request has no timeout.
+   */
+  Timer timer;
+
+  /**
+   * Cancel the timeout timer, if there is one.
+   */
+  void cancelTimer() {
+    if (timer != null) {
+      timer.cancel();
+    }
+  }
+}
@@ -31,9 +31,25 @@ class WebSocketClientChannel implements ClientCommunicationChannel {
   Stream<Notification> notificationStream;
 
   /**
-   * Initialize a new [WebSocket] wrapper for the given [socket].
+   * The amount of time to wait for a response to a request, or `null` if
+   * requests should wait indefinitely.
    */
-  WebSocketClientChannel(this.socket) {
+  final Duration timeout;
+
+  /**
+   * The requests that have been sent to the server and are waiting for a
+   * response, or `null` if no request has been sent yet. The table is created
+   * by the first request so that the responses, and the notifications that
+   * share their input, stay buffered until someone listens.
+   */
+  PendingResponses _pendingResponses;
+
+  /**
+   * Initialize a new [WebSocket] wrapper for the given [socket]. If a
+   * [timeout] is given, requests that don't receive a response within that
+   * time fail with a [TimeoutException].
+   */
+  WebSocketClientChannel(this.socket, {this.timeout}) {
     Stream jsonStream = socket
         .where((data) => data is String)
         .transform(new JsonStreamDecoder())
@@ -56,9 +72,13 @@ class WebSocketClientChannel implements ClientCommunicationChannel {
 
   @override
   Future<Response> sendRequest(Request request) {
-    String id = request.id;
-    socket.add(JSON.encode(request.toJson()));
-    return responseStream.firstWhere((Response response) => response.id == id);
+    if (_pendingResponses == null) {
+      _pendingResponses =
+          new PendingResponses(responseStream, timeout: timeout);
+    }
+    return _pendingResponses.send(request.id, () {
+      socket.add(JSON.encode(request.toJson()));
+    });
   }
 }
 
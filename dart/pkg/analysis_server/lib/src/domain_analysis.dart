@@ -25,10 +25,20 @@ class AnalysisDomainHandler implements RequestHandler {
    */
   final AnalysisServer server;
 
+  /**
+   * The result of the most recent `analysis.getLibraryDependencies` request,
+   * or `null` if it has not been computed yet, or analysis has been started,
+   * or the set of contexts has changed since it was computed.
+   */
+  AnalysisGetLibraryDependenciesResult _libraryDependencies;
+
   /**
    * Initialize a newly created handler to handle requests for the given [server].
    */
-  AnalysisDomainHandler(this.server);
+  AnalysisDomainHandler(this.server) {
+    server.onAnalysisStarted.listen((_) => _libraryDependencies = null);
+    server.onContextsChanged.listen((_) => _libraryDependencies = null);
+  }
 
   /**
    * Implement the `analysis.getErrors` request.
@@ -89,16 +99,16 @@ class AnalysisDomainHandler implements RequestHandler {
   }
 
   /// Implement the `analysis.getLibraryDependencies` request.
+  ///
+  /// The result is cached until analysis is started again or the set of
+  /// contexts changes, so that repeated requests against an unchanged
+  /// workspace don't walk every library element again.
   Response getLibraryDependencies(Request request) {
     server.onAnalysisComplete.then((_) {
-      LibraryDependencyCollector collector =
-          new LibraryDependencyCollector(server.getAnalysisContexts());
-      Set<String> libraries = collector.collectLibraryDependencies();
-      Map<String, Map<String, List<String>>> packageMap =
-          collector.calculatePackageMap(server.folderMap);
-      server.sendResponse(new AnalysisGetLibraryDependenciesResult(
-              libraries.toList(growable: false), packageMap)
-          .toResponse(request.id));
+      if (_libraryDependencies == null) {
+        _libraryDependencies = _computeLibraryDependencies();
+      }
+      server.sendResponse(_libraryDependencies.toResponse(request.id));
     });
     // delay response
     return Response.DELAYED_RESPONSE;
@@ -224,4 +234,18 @@ class AnalysisDomainHandler implements RequestHandler {
     server.updateOptions(updaters);
     return new AnalysisUpdateOptionsResult().toResponse(request.id);
   }
+
+  /**
+   * Compute the result of the `analysis.getLibraryDependencies` request for
+   * the current analysis contexts.
+   */
+  AnalysisGetLibraryDependenciesResult _computeLibraryDependencies() {
+    LibraryDependencyCollector collector =
+        new LibraryDependencyCollector(server.getAnalysisContexts());
+    Set<String> libraries = collector.collectLibraryDependencies();
+    Map<String, Map<String, List<String>>> packageMap =
+        collector.calculatePackageMap(server.folderMap);
+    return new AnalysisGetLibraryDependenciesResult(
+        libraries.toList(growable: false), packageMap);
+  }
 }
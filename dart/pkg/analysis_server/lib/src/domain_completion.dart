@@ -55,6 +55,13 @@ class CompletionDomainHandler implements RequestHandler {
    */
   StreamSubscription<SourcesChangedEvent> _sourcesChangedSubscription;
 
+  /**
+   * The subscription for the results of the most recent completion request,
+   * or `null` if there has not been a request. It is cancelled when a new
+   * request is received so that results for the old one are not sent.
+   */
+  StreamSubscription<CompletionResult> _resultsSubscription;
+
   /**
    * Code completion peformance for the last completion operation.
    */
@@ -189,7 +196,11 @@ class CompletionDomainHandler implements RequestHandler {
     CompletionRequest completionRequest =
         new CompletionRequestImpl(server, context, source, params.offset);
     int notificationCount = 0;
-    manager.results(completionRequest).listen((CompletionResult result) {
+    if (_resultsSubscription != null) {
+      _resultsSubscription.cancel();
+    }
+    _resultsSubscription =
+        manager.results(completionRequest).listen((CompletionResult result) {
       ++notificationCount;
       performance.logElapseTime("notification $notificationCount send", () {
         sendCompletionNotification(completionId, result.replacementOffset,
@@ -34,6 +34,20 @@ class ExecutionDomainHandler implements RequestHandler {
    */
   Map<String, String> contextMap = new HashMap<String, String>();
 
+  /**
+   * A table mapping execution context id's to the mappings that have already
+   * been computed for the context by the 'execution.mapUri' request.
+   */
+  final Map<String, _UriMapping> _uriMappings =
+      new HashMap<String, _UriMapping>();
+
+  /**
+   * The subscription to the 'onContextsChanged' events, used to discard the
+   * [_uriMappings] when the contexts change, or `null` if no mapping has been
+   * cached yet.
+   */
+  StreamSubscription _onContextsChanged;
+
   /**
    * The subscription to the 'onAnalysisComplete' events,
    * used to send notifications when
@@ -62,6 +76,7 @@ class ExecutionDomainHandler implements RequestHandler {
   Response deleteContext(Request request) {
     String contextId = new ExecutionDeleteContextParams.fromRequest(request).id;
     contextMap.remove(contextId);
+    _uriMappings.remove(contextId);
     return new ExecutionDeleteContextResult().toResponse(request.id);
   }
 
@@ -100,6 +115,12 @@ class ExecutionDomainHandler implements RequestHandler {
     if (context == null) {
       return new Response.invalidExecutionContext(request, contextId);
     }
+    if (_onContextsChanged == null) {
+      _onContextsChanged =
+          server.onContextsChanged.listen((_) => _uriMappings.clear());
+    }
+    _UriMapping mapping =
+        _uriMappings.putIfAbsent(contextId, () => new _UriMapping());
     String file = params.file;
     String uri = params.uri;
     if (file != null) {
@@ -114,16 +135,24 @@ class ExecutionDomainHandler implements RequestHandler {
         return new Response.invalidParameter(
             request, 'file', 'Must not refer to a directory');
       }
-      ContextSourcePair contextSource = server.getContextSourcePair(file);
-      Source source = contextSource.source;
-      uri = context.sourceFactory.restoreUri(source).toString();
+      uri = mapping.fileToUri[file];
+      if (uri == null) {
+        ContextSourcePair contextSource = server.getContextSourcePair(file);
+        Source source = contextSource.source;
+        uri = context.sourceFactory.restoreUri(source).toString();
+        mapping.fileToUri[file] = uri;
+      }
       return new ExecutionMapUriResult(uri: uri).toResponse(request.id);
     } else if (uri != null) {
-      Source source = context.sourceFactory.forUri(uri);
-      if (source == null) {
-        return new Response.invalidParameter(request, 'uri', 'Invalid URI');
+      file = mapping.uriToFile[uri];
+      if (file == null) {
+        Source source = context.sourceFactory.forUri(uri);
+        if (source == null) {
+          return new Response.invalidParameter(request, 'uri', 'Invalid URI');
+        }
+        file = source.fullName;
+        mapping.uriToFile[uri] = file;
       }
-      file = source.fullName;
       return new ExecutionMapUriResult(file: file).toResponse(request.id);
     }
     return new Response.invalidParameter(
@@ -233,3 +262,19 @@ class ExecutionDomainHandler implements RequestHandler {
     return sources.map((Source source) => source.fullName).toList();
   }
 }
+
+/**
+ * The file to URI and URI to file mappings that have been computed for a
+ * single execution context.
+ */
+class _UriMapping {
+  /**
+   * A table mapping file paths to the URIs they were mapped to.
+   */
+  final Map<String, String> fileToUri = new HashMap<String, String>();
+
+  /**
+   * A table mapping URIs to the file paths they were mapped to.
+   */
+  final Map<String, String> uriToFile = new HashMap<String, String>();
+}
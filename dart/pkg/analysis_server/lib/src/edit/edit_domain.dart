@@ -54,12 +54,21 @@ class EditDomainHandler implements RequestHandler {
 
   _RefactoringManager refactoringManager;
 
+  /**
+   * The `edit.getAvailableRefactorings` computations that are in progress,
+   * keyed by the file, offset and length they were requested for. Identical
+   * requests received while a computation is in progress share its result.
+   */
+  final Map<String, Future<List<RefactoringKind>>> _availableRefactorings =
+      <String, Future<List<RefactoringKind>>>{};
+
   /**
    * Initialize a newly created handler to handle requests for the given [server].
    */
   EditDomainHandler(this.server, this.plugin) {
     searchEngine = server.searchEngine;
     _newRefactoringManager();
+    server.onAnalysisStarted.listen((_) => _availableRefactorings.clear());
   }
 
   Response format(Request request) {
@@ -241,20 +250,12 @@ class EditDomainHandler implements RequestHandler {
     return new EditSortMembersResult(fileEdit).toResponse(request.id);
   }
 
-  Response _getAvailableRefactorings(Request request) {
-    if (searchEngine == null) {
-      return new Response.noIndexGenerated(request);
-    }
-    _getAvailableRefactoringsImpl(request);
-    return Response.DELAYED_RESPONSE;
-  }
-
-  Future _getAvailableRefactoringsImpl(Request request) async {
-    // prepare parameters
-    var params = new EditGetAvailableRefactoringsParams.fromRequest(request);
-    String file = params.file;
-    int offset = params.offset;
-    int length = params.length;
+  /**
+   * Return the kinds of refactorings that are available for the range with
+   * the given [offset] and [length] in the given [file].
+   */
+  Future<List<RefactoringKind>> _computeAvailableRefactoringKinds(
+      String file, int offset, int length) async {
     // add refactoring kinds
     List<RefactoringKind> kinds = <RefactoringKind>[];
     // try EXTRACT_*
@@ -286,9 +287,39 @@ class EditDomainHandler implements RequestHandler {
         }
       }
     }
+    return kinds;
+  }
+
+  Response _getAvailableRefactorings(Request request) {
+    if (searchEngine == null) {
+      return new Response.noIndexGenerated(request);
+    }
+    // prepare parameters
+    var params = new EditGetAvailableRefactoringsParams.fromRequest(request);
+    String file = params.file;
+    int offset = params.offset;
+    int length = params.length;
+    // join an identical computation that is in progress
+    String key = '$file:$offset:$length';
+    Future<List<RefactoringKind>> future = _availableRefactorings[key];
+    if (future == null) {
+      future = _computeAvailableRefactoringKinds(file, offset, length)
+          .whenComplete(() {
+        if (_availableRefactorings[key] == future) {
+          _availableRefactorings.remove(key);
+        }
+      });
+      _availableRefactorings[key] = future;
+    }
     // respond
-    var result = new EditGetAvailableRefactoringsResult(kinds);
-    server.sendResponse(result.toResponse(request.id));
+    future.then((List<RefactoringKind> kinds) {
+      var result = new EditGetAvailableRefactoringsResult(kinds);
+      server.sendResponse(result.toResponse(request.id));
+    }, onError: (exception, stackTrace) {
+      server.sendResponse(
+          new Response.serverError(request, exception, stackTrace));
+    });
+    return Response.DELAYED_RESPONSE;
   }
 
   Response _getRefactoring(Request request) {
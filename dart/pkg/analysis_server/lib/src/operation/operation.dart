@@ -80,3 +80,18 @@ abstract class SourceSensitiveOperation extends ServerOperation {
    */
   bool shouldBeDiscardedOnSourceChange(Source source);
 }
+
+/**
+ * [SupersedingOperation] can decide if an operation that is still in the queue
+ * is made unnecessary by this operation, so that only the latest of them is
+ * performed.
+ */
+abstract class SupersedingOperation extends ServerOperation {
+  SupersedingOperation(AnalysisContext context) : super(context);
+
+  /**
+   * Return `true` if the given queued [operation] is no longer needed once
+   * this operation is added to the queue.
+   */
+  bool supersedes(ServerOperation operation);
+}
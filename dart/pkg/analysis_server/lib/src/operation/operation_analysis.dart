@@ -343,7 +343,8 @@ class _DartNavigationOperation extends _DartNotificationOperation {
   }
 }
 
-abstract class _DartNotificationOperation extends _SingleFileOperation {
+abstract class _DartNotificationOperation extends _SingleFileOperation
+    implements SupersedingOperation {
   final CompilationUnit unit;
 
   _DartNotificationOperation(AnalysisContext context, String file, this.unit)
@@ -353,6 +354,20 @@ abstract class _DartNotificationOperation extends _SingleFileOperation {
   ServerOperationPriority get priority {
     return ServerOperationPriority.ANALYSIS_NOTIFICATION;
   }
+
+  /**
+   * Return `true` if the given [operation] sends the same kind of notification
+   * for the same [file] in the same [context], so this operation makes it
+   * unnecessary.
+   */
+  @override
+  bool supersedes(ServerOperation operation) {
+    if (operation.runtimeType != runtimeType) {
+      return false;
+    }
+    _DartNotificationOperation other = operation;
+    return other.context == context && other.file == file;
+  }
 }
 
 class _DartOccurrencesOperation extends _DartNotificationOperation {
@@ -408,7 +423,8 @@ class _HtmlIndexOperation extends _SingleFileOperation {
   }
 }
 
-class _NotificationErrorsOperation extends _SingleFileOperation {
+class _NotificationErrorsOperation extends _SingleFileOperation
+    implements SupersedingOperation {
   final LineInfo lineInfo;
   final List<AnalysisError> errors;
 
@@ -425,6 +441,17 @@ class _NotificationErrorsOperation extends _SingleFileOperation {
   void perform(AnalysisServer server) {
     sendAnalysisNotificationErrors(server, file, lineInfo, errors);
   }
+
+  /**
+   * Return `true` if the given [operation] sends the errors for the same
+   * [file] in the same [context], so this operation makes it unnecessary.
+   */
+  @override
+  bool supersedes(ServerOperation operation) {
+    return operation is _NotificationErrorsOperation &&
+        operation.context == context &&
+        operation.file == file;
+  }
 }
 
 abstract class _SingleFileOperation extends SourceSensitiveOperation {
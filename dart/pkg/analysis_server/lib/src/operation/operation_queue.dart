@@ -34,11 +34,16 @@ class ServerOperationQueue {
   /**
    * Adds the given operation to this queue. The exact position in the queue
    * depends on the priority of the given operation relative to the priorities
-   * of the other operations in the queue.
+   * of the other operations in the queue. If the operation is a
+   * [SupersedingOperation], the queued operations that it supersedes are
+   * removed.
    */
   void add(ServerOperation operation) {
     int queueIndex = operation.priority.ordinal;
     Queue<ServerOperation> queue = _queues[queueIndex];
+    if (operation is SupersedingOperation) {
+      queue.removeWhere(operation.supersedes);
+    }
     queue.addLast(operation);
   }
 
@@ -5,6 +5,7 @@
 library search.domain;
 
 import 'dart:async';
+import 'dart:math' show min;
 
 import 'package:analysis_server/src/analysis_server.dart';
 import 'package:analysis_server/src/constants.dart';
@@ -19,6 +20,19 @@ import 'package:analyzer/src/generated/element.dart';
  * that handles requests in the search domain.
  */
 class SearchDomainHandler implements protocol.RequestHandler {
+  /**
+   * The default value of [resultsBatchSize].
+   */
+  static const int DEFAULT_RESULTS_BATCH_SIZE = 500;
+
+  /**
+   * The maximum number of results sent in a single `search.results`
+   * notification for the name based searches. Large result sets are sent in
+   * several notifications, so that the client can start showing results
+   * before all of them have been converted and sent.
+   */
+  final int resultsBatchSize;
+
   /**
    * The analysis server that is using this handler to process requests.
    */
@@ -34,11 +48,23 @@ class SearchDomainHandler implements protocol.RequestHandler {
    */
   int _nextSearchId = 0;
 
+  /**
+   * The `search.getTypeHierarchy` computations that are in progress, keyed by
+   * the file and offset they were requested for. Identical requests received
+   * while a computation is in progress share its result.
+   */
+  final Map<String, Future<List<protocol.TypeHierarchyItem>>>
+      _typeHierarchies = <String, Future<List<protocol.TypeHierarchyItem>>>{};
+
   /**
    * Initialize a newly created handler to handle requests for the given [server].
+   * Name based search results are sent in batches of at most
+   * [resultsBatchSize] results.
    */
-  SearchDomainHandler(this.server) {
+  SearchDomainHandler(this.server,
+      {this.resultsBatchSize: DEFAULT_RESULTS_BATCH_SIZE}) {
     searchEngine = server.searchEngine;
+    server.onAnalysisStarted.listen((_) => _typeHierarchies.clear());
   }
 
   Future findElementReferences(protocol.Request request) async {
@@ -91,7 +117,7 @@ class SearchDomainHandler implements protocol.RequestHandler {
     // search
     List<SearchMatch> matches =
         await searchEngine.searchMemberDeclarations(params.name);
-    _sendSearchNotification(searchId, true, matches.map(toResult));
+    await _sendSearchNotifications(searchId, matches);
   }
 
   Future findMemberReferences(protocol.Request request) async {
@@ -105,7 +131,7 @@ class SearchDomainHandler implements protocol.RequestHandler {
     // search
     List<SearchMatch> matches =
         await searchEngine.searchMemberReferences(params.name);
-    _sendSearchNotification(searchId, true, matches.map(toResult));
+    await _sendSearchNotifications(searchId, matches);
   }
 
   Future findTopLevelDeclarations(protocol.Request request) async {
@@ -119,7 +145,7 @@ class SearchDomainHandler implements protocol.RequestHandler {
     // search
     List<SearchMatch> matches =
         await searchEngine.searchTopLevelDeclarations(params.pattern);
-    _sendSearchNotification(searchId, true, matches.map(toResult));
+    await _sendSearchNotifications(searchId, matches);
   }
 
   /**
@@ -127,20 +153,28 @@ class SearchDomainHandler implements protocol.RequestHandler {
    */
   Future getTypeHierarchy(protocol.Request request) async {
     var params = new protocol.SearchGetTypeHierarchyParams.fromRequest(request);
-    await server.onAnalysisComplete;
-    // prepare element
-    List<Element> elements =
-        server.getElementsAtOffset(params.file, params.offset);
-    if (elements.isEmpty) {
-      protocol.Response response =
-          new protocol.SearchGetTypeHierarchyResult().toResponse(request.id);
-      server.sendResponse(response);
+    String file = params.file;
+    int offset = params.offset;
+    // join an identical computation that is in progress
+    String key = '$file:$offset';
+    Future<List<protocol.TypeHierarchyItem>> future = _typeHierarchies[key];
+    if (future == null) {
+      future = _computeTypeHierarchy(file, offset).whenComplete(() {
+        if (_typeHierarchies[key] == future) {
+          _typeHierarchies.remove(key);
+        }
+      });
+      _typeHierarchies[key] = future;
+    }
+    // respond
+    List<protocol.TypeHierarchyItem> items;
+    try {
+      items = await future;
+    } catch (exception, stackTrace) {
+      server.sendResponse(
+          new protocol.Response.serverError(request, exception, stackTrace));
       return;
     }
-    Element element = elements.first;
-    // prepare type hierarchy
-    TypeHierarchyComputer computer = new TypeHierarchyComputer(searchEngine);
-    List<protocol.TypeHierarchyItem> items = await computer.compute(element);
     protocol.Response response = new protocol.SearchGetTypeHierarchyResult(
         hierarchyItems: items).toResponse(request.id);
     server.sendResponse(response);
@@ -175,6 +209,24 @@ class SearchDomainHandler implements protocol.RequestHandler {
     return null;
   }
 
+  /**
+   * Return the type hierarchy items for the element at the given [offset] in
+   * the given [file], or `null` if there is no element at the [offset].
+   */
+  Future<List<protocol.TypeHierarchyItem>> _computeTypeHierarchy(
+      String file, int offset) async {
+    await server.onAnalysisComplete;
+    // prepare element
+    List<Element> elements = server.getElementsAtOffset(file, offset);
+    if (elements.isEmpty) {
+      return null;
+    }
+    Element element = elements.first;
+    // prepare type hierarchy
+    TypeHierarchyComputer computer = new TypeHierarchyComputer(searchEngine);
+    return computer.compute(element);
+  }
+
   void _sendSearchNotification(
       String searchId, bool isLast, Iterable<protocol.SearchResult> results) {
     server.sendNotification(
@@ -182,6 +234,29 @@ class SearchDomainHandler implements protocol.RequestHandler {
             .toNotification());
   }
 
+  /**
+   * Send the given [matches] as `search.results` notifications with the given
+   * [searchId], at most [resultsBatchSize] results per notification. Between
+   * the notifications other requests and operations are given a chance to
+   * run.
+   */
+  Future _sendSearchNotifications(
+      String searchId, List<SearchMatch> matches) async {
+    int length = matches.length;
+    int start = 0;
+    while (true) {
+      int end = min(start + resultsBatchSize, length);
+      bool isLast = end == length;
+      _sendSearchNotification(
+          searchId, isLast, matches.sublist(start, end).map(toResult));
+      if (isLast) {
+        return;
+      }
+      start = end;
+      await new Future(() {});
+    }
+  }
+
   /**
    * Send a search response with the given [result] to the given [request].
    */
@@ -102,9 +102,14 @@ abstract class CompletionManager {
   void dispose() {}
 
   /**
-   * Generate a stream of code completion results.
+   * Generate a stream of code completion results. The stream of results for
+   * the previous request, if it is still open, is closed because the new
+   * request supersedes it.
    */
   Stream<CompletionResult> results(CompletionRequest request) {
+    if (controller != null && !controller.isClosed) {
+      controller.close();
+    }
     controller = new StreamController<CompletionResult>(onListen: () {
       scheduleMicrotask(() {
         computeSuggestions(request);
@@ -77,6 +77,13 @@ class DartCompletionManager extends CompletionManager {
   List<DartCompletionContributor> contributors;
   CommonUsageComputer commonUsageComputer;
 
+  /**
+   * The most recent request for which suggestions are being computed, or
+   * `null` if there has not been a request. Results for older requests are
+   * not sent because the client has already moved on.
+   */
+  DartCompletionRequest _latestRequest;
+
   DartCompletionManager(
       AnalysisContext context, this.searchEngine, Source source, this.cache,
       [this.contributors, this.commonUsageComputer])
@@ -169,7 +176,7 @@ class DartCompletionManager extends CompletionManager {
       CompletionPerformance performance, List<DartCompletionContributor> todo) {
     performance.logStartTime('waitForAnalysis');
     return waitForAnalysis().then((CompilationUnit unit) {
-      if (controller.isClosed) {
+      if (controller.isClosed || !identical(request, _latestRequest)) {
         return;
       }
       performance.logElapseTime('waitForAnalysis');
@@ -206,6 +213,7 @@ class DartCompletionManager extends CompletionManager {
   void computeSuggestions(CompletionRequest completionRequest) {
     DartCompletionRequest request =
         new DartCompletionRequest.from(completionRequest, cache);
+    _latestRequest = request;
     CompletionPerformance performance = new CompletionPerformance();
     performance.logElapseTime('compute', () {
       List<DartCompletionContributor> todo = computeFast(request, performance);
@@ -219,7 +227,9 @@ class DartCompletionManager extends CompletionManager {
    * Send the current list of suggestions to the client.
    */
   void sendResults(DartCompletionRequest request, bool last) {
-    if (controller == null || controller.isClosed) {
+    if (controller == null ||
+        controller.isClosed ||
+        !identical(request, _latestRequest)) {
       return;
     }
     controller.add(new CompletionResult(request.replacementOffset,
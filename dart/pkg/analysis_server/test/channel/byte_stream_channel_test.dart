@@ -21,8 +21,15 @@ main() {
     test('close', ByteStreamClientChannelTest.close);
     test(
         'listen_notification', ByteStreamClientChannelTest.listen_notification);
+    test('listen_notification_beforeListen',
+        ByteStreamClientChannelTest.listen_notification_beforeListen);
     test('listen_response', ByteStreamClientChannelTest.listen_response);
     test('sendRequest', ByteStreamClientChannelTest.sendRequest);
+    test('sendRequest_closed', ByteStreamClientChannelTest.sendRequest_closed);
+    test('sendRequest_malformedResponse',
+        ByteStreamClientChannelTest.sendRequest_malformedResponse);
+    test(
+        'sendRequest_timeout', ByteStreamClientChannelTest.sendRequest_timeout);
   });
   group('ByteStreamServerChannel', () {
     setUp(ByteStreamServerChannelTest.setUp);
@@ -85,6 +92,16 @@ class ByteStreamClientChannelTest {
     });
   }
 
+  static Future listen_notification_beforeListen() {
+    inputSink.writeln('{"event":"server.connected"}');
+    return pumpEventQueue().then((_) {
+      // the notification is buffered until there is a listener
+      return channel.notificationStream.first.timeout(new Duration(seconds: 1));
+    }).then((Notification notification) {
+      expect(notification.event, equals('server.connected'));
+    });
+  }
+
   static Future listen_response() {
     List<Response> responses = [];
     channel.responseStream.forEach((n) => responses.add(n));
@@ -112,6 +129,44 @@ class ByteStreamClientChannelTest {
     return pumpEventQueue().then((_) => expect(assertCount, equals(2)));
   }
 
+  static Future sendRequest_closed() {
+    Object error;
+    channel.sendRequest(new Request('72', 'foo.bar')).catchError((e) {
+      error = e;
+    });
+    return inputSink.close().then((_) => pumpEventQueue()).then((_) {
+      expect(error, new isInstanceOf<StateError>());
+    });
+  }
+
+  static Future sendRequest_malformedResponse() {
+    Object error;
+    channel.sendRequest(new Request('72', 'foo.bar')).catchError((e) {
+      error = e;
+    });
+    inputSink.writeln('{"id":');
+    return pumpEventQueue().then((_) {
+      expect(error, new isInstanceOf<FormatException>());
+    });
+  }
+
+  static Future sendRequest_timeout() {
+    var inputStream = new StreamController<List<int>>();
+    inputSink = new IOSink(inputStream);
+    channel = new ByteStreamClientChannel(inputStream.stream, outputSink,
+        timeout: new Duration(milliseconds: 1));
+    Object error;
+    channel.sendRequest(new Request('72', 'foo.bar')).catchError((e) {
+      error = e;
+    });
+    return new Future.delayed(new Duration(milliseconds: 10)).then((_) {
+      expect(error, new isInstanceOf<TimeoutException>());
+      // a late response is ignored
+      inputSink.writeln('{"id":"72"}');
+      return pumpEventQueue();
+    });
+  }
+
   static void setUp() {
     var inputStream = new StreamController<List<int>>();
     inputSink = new IOSink(inputStream);
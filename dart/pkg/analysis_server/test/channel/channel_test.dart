@@ -0,0 +1,104 @@
+// Copyright (c) 2015, the Dart project authors.  Please see the AUTHORS file
+// for details. All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+library test.channel;
+
+import 'dart:async';
+
+import 'package:analysis_server/src/channel/channel.dart';
+import 'package:analysis_server/src/protocol.dart';
+import 'package:unittest/unittest.dart';
+
+import '../mocks.dart';
+
+main() {
+  group('PendingResponses', () {
+    setUp(PendingResponsesTest.setUp);
+    test('send_closed', PendingResponsesTest.send_closed);
+    test('send_duplicateId', PendingResponsesTest.send_duplicateId);
+    test('send_error', PendingResponsesTest.send_error);
+    test('send_response', PendingResponsesTest.send_response);
+    test('send_timeout', PendingResponsesTest.send_timeout);
+  });
+}
+
+class PendingResponsesTest {
+  static StreamController<Response> responseController;
+  static PendingResponses pendingResponses;
+
+  static Future send_closed() {
+    Object error;
+    pendingResponses.send('1', () {}).catchError((e) {
+      error = e;
+    });
+    expect(pendingResponses.length, 1);
+    responseController.close();
+    return pumpEventQueue().then((_) {
+      expect(error, new isInstanceOf<StateError>());
+      expect(pendingResponses.length, 0);
+    });
+  }
+
+  static Future send_duplicateId() {
+    int writeCount = 0;
+    pendingResponses.send('1', () => writeCount++);
+    Object error;
+    pendingResponses.send('1', () => writeCount++).catchError((e) {
+      error = e;
+    });
+    return pumpEventQueue().then((_) {
+      expect(error, new isInstanceOf<ArgumentError>());
+      expect(writeCount, 1);
+      expect(pendingResponses.length, 1);
+    });
+  }
+
+  static Future send_error() {
+    Object error1;
+    Object error2;
+    pendingResponses.send('1', () {}).catchError((e) {
+      error1 = e;
+    });
+    pendingResponses.send('2', () {}).catchError((e) {
+      error2 = e;
+    });
+    responseController.addError(new FormatException('bad input'));
+    return pumpEventQueue().then((_) {
+      expect(error1, new isInstanceOf<FormatException>());
+      expect(error2, new isInstanceOf<FormatException>());
+      expect(pendingResponses.length, 0);
+    });
+  }
+
+  static Future send_response() {
+    Response response;
+    pendingResponses.send('1', () {}).then((r) {
+      response = r;
+    });
+    pendingResponses.send('2', () {});
+    responseController.add(new Response('1'));
+    return pumpEventQueue().then((_) {
+      expect(response.id, '1');
+      expect(pendingResponses.length, 1);
+    });
+  }
+
+  static Future send_timeout() {
+    pendingResponses = new PendingResponses(responseController.stream,
+        timeout: new Duration(milliseconds: 1));
+    Object error;
+    pendingResponses.send('1', () {}).catchError((e) {
+      error = e;
+    });
+    return new Future.delayed(new Duration(milliseconds: 10)).then((_) {
+      expect(error, new isInstanceOf<TimeoutException>());
+      expect(pendingResponses.length, 0);
+    });
+  }
+
+  static void setUp() {
+    responseController = new StreamController<Response>.broadcast();
+    pendingResponses = new PendingResponses(responseController.stream);
+  }
+}
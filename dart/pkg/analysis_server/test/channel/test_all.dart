@@ -7,6 +7,7 @@ library test.channel.all;
 import 'package:unittest/unittest.dart';
 
 import 'byte_stream_channel_test.dart' as byte_stream_channel_test;
+import 'channel_test.dart' as channel_test;
 import 'web_socket_channel_test.dart' as web_socket_channel_test;
 
 /**
@@ -16,6 +17,7 @@ main() {
   groupSep = ' | ';
   group('computer', () {
     byte_stream_channel_test.main();
+    channel_test.main();
     web_socket_channel_test.main();
   });
 }
@@ -23,7 +23,9 @@ main() {
     test('notificationAndResponse',
         WebSocketChannelTest.notificationAndResponse);
     test('request', WebSocketChannelTest.request);
+    test('requestDuplicateId', WebSocketChannelTest.requestDuplicateId);
     test('requestResponse', WebSocketChannelTest.requestResponse);
+    test('requestTimeout', WebSocketChannelTest.requestTimeout);
     test('response', WebSocketChannelTest.response);
   });
 }
@@ -107,6 +109,17 @@ class WebSocketChannelTest {
     });
   }
 
+  static Future requestDuplicateId() {
+    // The server doesn't respond, so the first request is still waiting.
+    client.sendRequest(new Request('myId', 'myMth'));
+    return client.sendRequest(new Request('myId', 'myMth')).then((_) {
+      fail('expected the duplicate request to be rejected');
+    }, onError: (error) {
+      expect(error, new isInstanceOf<ArgumentError>());
+      return pumpEventQueue().then((_) => expectMsgCount(requestCount: 1));
+    });
+  }
+
   static Future requestResponse() {
     // Simulate server sending a response by echoing the request.
     server.listen(
@@ -135,6 +148,18 @@ class WebSocketChannelTest {
     });
   }
 
+  static Future requestTimeout() {
+    // The twin of this socket is never listened to, so there is no response.
+    MockSocket socket = new MockSocket.pair();
+    WebSocketClientChannel client = new WebSocketClientChannel(socket,
+        timeout: new Duration(milliseconds: 1));
+    return client.sendRequest(new Request('myId', 'myMth')).then((_) {
+      fail('expected the request to time out');
+    }, onError: (error) {
+      expect(error, new isInstanceOf<TimeoutException>());
+    });
+  }
+
   static void setUp() {
     socket = new MockSocket.pair();
     client = new WebSocketClientChannel(socket);
@@ -10,8 +10,12 @@ import 'package:analysis_server/src/analysis_server.dart';
 import 'package:analysis_server/src/constants.dart';
 import 'package:analysis_server/src/domain_analysis.dart';
 import 'package:analysis_server/src/protocol.dart';
+import 'package:analyzer/file_system/file_system.dart';
 import 'package:analyzer/file_system/memory_file_system.dart';
 import 'package:analyzer/instrumentation/instrumentation.dart';
+import 'package:analyzer/source/package_map_resolver.dart';
+import 'package:analyzer/src/generated/engine.dart' show AnalysisContext;
+import 'package:analyzer/src/generated/source.dart' show SourceFactory;
 import 'package:path/path.dart';
 import 'package:test_reflective_loader/test_reflective_loader.dart';
 import 'package:unittest/unittest.dart';
@@ -281,6 +285,78 @@ class AnalysisDomainTest extends AbstractAnalysisTest {
     }
   }
 
+  test_getLibraryDependencies_afterChange() async {
+    String libFile = '/project/bin/lib.dart';
+    addFile(libFile, 'library lib;');
+    addTestFile('main() {}');
+    createProject();
+    await waitForTasksFinished();
+    Request request =
+        new AnalysisGetLibraryDependenciesParams().toRequest('0');
+    var result = new AnalysisGetLibraryDependenciesResult.fromResponse(
+        await waitResponse(request));
+    expect(result.libraries, isNot(contains(libFile)));
+    // the cached result must not survive a change of the imports
+    server.updateContent('1', {
+      testFile: new AddContentOverlay('''
+import 'lib.dart';
+main() {}
+''')
+    });
+    await waitForTasksFinished();
+    result = new AnalysisGetLibraryDependenciesResult.fromResponse(
+        await waitResponse(request));
+    expect(result.libraries, contains(libFile));
+  }
+
+  test_getLibraryDependencies_afterContextChange() async {
+    resourceProvider.newFile('/packages/pkgA/libA.dart', 'library lib_a;');
+    addTestFile('main() {}');
+    createProject();
+    await waitForTasksFinished();
+    Request request =
+        new AnalysisGetLibraryDependenciesParams().toRequest('0');
+    var result = new AnalysisGetLibraryDependenciesResult.fromResponse(
+        await waitResponse(request));
+    expect(result.packageMap[projectPath], isNot(contains('pkgA')));
+    // the cached result must not survive a change of the context
+    server.contextDirectoryManager.updateContextPackageUriResolver(
+        resourceProvider.getResource(projectPath),
+        new PackageMapUriResolver(resourceProvider, {
+      'pkgA': [resourceProvider.getResource('/packages/pkgA')]
+    }));
+    await waitForTasksFinished();
+    result = new AnalysisGetLibraryDependenciesResult.fromResponse(
+        await waitResponse(request));
+    expect(result.packageMap[projectPath], contains('pkgA'));
+  }
+
+  test_getLibraryDependencies_repeated() async {
+    resourceProvider.newFile('/packages/pkgA/libA.dart', 'library lib_a;');
+    addTestFile('main() {}');
+    createProject();
+    await waitForTasksFinished();
+    Request request =
+        new AnalysisGetLibraryDependenciesParams().toRequest('0');
+    var result1 = new AnalysisGetLibraryDependenciesResult.fromResponse(
+        await waitResponse(request));
+    expect(result1.libraries, contains(testFile));
+    expect(result1.packageMap[projectPath], isNot(contains('pkgA')));
+    // change the package map without notifying the server
+    AnalysisContext context = server.getAnalysisContext(testFile);
+    context.sourceFactory = new SourceFactory([
+      new PackageMapUriResolver(resourceProvider, {
+        'pkgA': [resourceProvider.getResource('/packages/pkgA')]
+      }),
+      new ResourceUriResolver(resourceProvider)
+    ]);
+    // the second request is answered from the cached result
+    var result2 = new AnalysisGetLibraryDependenciesResult.fromResponse(
+        await waitResponse(request));
+    expect(result2.libraries, unorderedEquals(result1.libraries));
+    expect(result2.packageMap, result1.packageMap);
+  }
+
   test_packageMapDependencies() {
     // Prepare a source file that has errors because it refers to an unknown
     // package.
@@ -58,11 +58,29 @@ class CompletionManagerTest extends AbstractAnalysisTest {
     return createLocalMemoryIndex();
   }
 
-  void sendRequest(String path) {
+  /**
+   * Return the completion ids of the `completion.results` notifications
+   * received so far.
+   */
+  List<String> get completionResultIds {
+    return serverChannel.notificationsReceived
+        .where((Notification notification) =>
+            notification.event == COMPLETION_RESULTS)
+        .map((Notification notification) =>
+            new CompletionResultsParams.fromNotification(notification).id)
+        .toList();
+  }
+
+  /**
+   * Send a `completion.getSuggestions` request for the given [path] and
+   * return the completion id from its response.
+   */
+  String sendRequest(String path) {
     String id = (++requestCount).toString();
     request = new CompletionGetSuggestionsParams(path, 0).toRequest(id);
     Response response = handler.handleRequest(request);
     expect(response, isResponseSuccess(id));
+    return new CompletionGetSuggestionsResult.fromResponse(response).id;
   }
 
   @override
@@ -139,6 +157,32 @@ class CompletionManagerTest extends AbstractAnalysisTest {
     });
   }
 
+  /**
+   * Assert no results are sent for a request that is superseded by a request
+   * for a different source.
+   */
+  test_2_requests_superseded_different_sources() {
+    String completionId1 = sendRequest(testFile);
+    String completionId2 = sendRequest(testFile2);
+    return pumpEventQueue().then((_) {
+      expect(completionResultIds, isNot(contains(completionId1)));
+      expect(completionResultIds, contains(completionId2));
+    });
+  }
+
+  /**
+   * Assert no results are sent for a request that is superseded by a request
+   * for the same source.
+   */
+  test_2_requests_superseded_same_source() {
+    String completionId1 = sendRequest(testFile);
+    String completionId2 = sendRequest(testFile);
+    return pumpEventQueue().then((_) {
+      expect(completionResultIds, isNot(contains(completionId1)));
+      expect(completionResultIds, contains(completionId2));
+    });
+  }
+
   /**
    * Assert manager is NOT cleared when context NOT associated with manager changes.
    */
@@ -573,12 +617,16 @@ class MockCompletionManager implements CompletionManager {
 
   @override
   Stream<CompletionResult> results(CompletionRequest request) {
-    controller = new StreamController<CompletionResult>(onListen: () {
+    StreamController<CompletionResult> requestController;
+    requestController = new StreamController<CompletionResult>(onListen: () {
       scheduleMicrotask(() {
+        // add the results to the stream of this request
+        controller = requestController;
         computeSuggestions(request);
       });
     });
-    return controller.stream;
+    controller = requestController;
+    return requestController.stream;
   }
 }
 
@@ -13,6 +13,7 @@ import 'package:analysis_server/src/protocol.dart';
 import 'package:analyzer/file_system/file_system.dart';
 import 'package:analyzer/file_system/memory_file_system.dart';
 import 'package:analyzer/instrumentation/instrumentation.dart';
+import 'package:analyzer/source/package_map_resolver.dart';
 import 'package:analyzer/src/generated/engine.dart';
 import 'package:analyzer/src/generated/source.dart';
 import 'package:analyzer/src/generated/source_io.dart';
@@ -83,9 +84,10 @@ main() {
 
     group('mapUri', () {
       String contextId;
+      Folder folder;
 
       setUp(() {
-        Folder folder = provider.newFile('/a/b.dart', '').parent;
+        folder = provider.newFile('/a/b.dart', '').parent;
         server.folderMap.putIfAbsent(folder, () {
           SourceFactory factory =
               new SourceFactory([new ResourceUriResolver(provider)]);
@@ -158,6 +160,50 @@ main() {
         });
       });
 
+      test('cached', () {
+        Request request = new ExecutionMapUriParams(contextId,
+            file: '/a/b.dart').toRequest('2');
+        Response response = handler.handleRequest(request);
+        expect(response, isResponseSuccess('2'));
+        ExecutionMapUriResult result =
+            new ExecutionMapUriResult.fromResponse(response);
+        expect(result.uri, 'file:///a/b.dart');
+        // change the mapping without notifying the server
+        server.folderMap[folder].sourceFactory = new SourceFactory([
+          new PackageMapUriResolver(provider, {
+            'pkgA': [folder]
+          }),
+          new ResourceUriResolver(provider)
+        ]);
+        // a repeated request is answered from the cache
+        response = handler.handleRequest(request);
+        expect(response, isResponseSuccess('2'));
+        result = new ExecutionMapUriResult.fromResponse(response);
+        expect(result.uri, 'file:///a/b.dart');
+      });
+
+      test('cache discarded when contexts change', () {
+        Request request = new ExecutionMapUriParams(contextId,
+            file: '/a/b.dart').toRequest('2');
+        Response response = handler.handleRequest(request);
+        expect(response, isResponseSuccess('2'));
+        ExecutionMapUriResult result =
+            new ExecutionMapUriResult.fromResponse(response);
+        expect(result.uri, 'file:///a/b.dart');
+        // change the mapping through the context manager
+        server.contextDirectoryManager.updateContextPackageUriResolver(folder,
+            new PackageMapUriResolver(provider, {
+          'pkgA': [folder]
+        }));
+        return pumpEventQueue().then((_) {
+          Response response = handler.handleRequest(request);
+          expect(response, isResponseSuccess('2'));
+          ExecutionMapUriResult result =
+              new ExecutionMapUriResult.fromResponse(response);
+          expect(result.uri, 'package:pkgA/b.dart');
+        });
+      });
+
       test('invalid context id', () {
         Request request =
             new ExecutionMapUriParams('xxx', uri: '').toRequest('4');
@@ -694,6 +694,58 @@ main() {
     expect(kinds, contains(RefactoringKind.EXTRACT_METHOD));
   }
 
+  Future test_identicalRequests() async {
+    addTestFile('''
+int getValue() => 42;
+''');
+    await waitForTasksFinished();
+    int offset = findOffset('getValue');
+    Request request1 =
+        new EditGetAvailableRefactoringsParams(testFile, offset, 0)
+            .toRequest('1');
+    Request request2 =
+        new EditGetAvailableRefactoringsParams(testFile, offset, 0)
+            .toRequest('2');
+    Future<Response> future1 = serverChannel.waitForResponse(request1);
+    Future<Response> future2 = serverChannel.waitForResponse(request2);
+    server.handleRequest(request1);
+    server.handleRequest(request2);
+    // the second request joins the computation of the first one
+    var result1 =
+        new EditGetAvailableRefactoringsResult.fromResponse(await future1);
+    var result2 =
+        new EditGetAvailableRefactoringsResult.fromResponse(await future2);
+    expect(result1.kinds, contains(RefactoringKind.CONVERT_METHOD_TO_GETTER));
+    expect(result2.kinds, result1.kinds);
+  }
+
+  Future test_identicalRequests_afterChange() async {
+    addTestFile('''
+int getValue() => 42;
+''');
+    await waitForTasksFinished();
+    int offset = findOffset('getValue');
+    Request request1 =
+        new EditGetAvailableRefactoringsParams(testFile, offset, 0)
+            .toRequest('1');
+    Request request2 =
+        new EditGetAvailableRefactoringsParams(testFile, offset, 0)
+            .toRequest('2');
+    server.handleRequest(request1);
+    // a computation started for the old content is not shared after a change
+    server.updateContent('3', {
+      testFile: new AddContentOverlay('''
+var getValue = 42;
+''')
+    });
+    await waitForTasksFinished();
+    var result2 = new EditGetAvailableRefactoringsResult.fromResponse(
+        await serverChannel.sendRequest(request2));
+    expect(result2.kinds, contains(RefactoringKind.RENAME));
+    expect(result2.kinds,
+        isNot(contains(RefactoringKind.CONVERT_METHOD_TO_GETTER)));
+  }
+
   Future test_rename_hasElement_class() {
     return assertHasRenameRefactoring('''
 class Test {}
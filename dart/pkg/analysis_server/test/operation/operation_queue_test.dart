@@ -10,6 +10,7 @@ import 'package:analysis_server/src/operation/operation_analysis.dart';
 import 'package:analysis_server/src/operation/operation_queue.dart';
 import 'package:analysis_server/src/services/search/search_engine.dart';
 import 'package:analyzer/file_system/file_system.dart';
+import 'package:analyzer/src/generated/ast.dart';
 import 'package:analyzer/src/generated/engine.dart';
 import 'package:analyzer/src/generated/source.dart';
 import 'package:test_reflective_loader/test_reflective_loader.dart';
@@ -60,6 +61,52 @@ class ServerContextManagerMock extends TypedMock
 class ServerOperationQueueTest {
   ServerOperationQueue queue = new ServerOperationQueue();
 
+  void test_add_supersedingOperation() {
+    var opA1 = new _SupersedingOperationMock('a');
+    var opB1 = new _SupersedingOperationMock('b');
+    var opA2 = new _SupersedingOperationMock('a');
+    queue.add(opA1);
+    queue.add(opB1);
+    queue.add(opA2);
+    expect(queue.take(), same(opB1));
+    expect(queue.take(), same(opA2));
+    expect(queue.take(), isNull);
+  }
+
+  void test_add_supersedingOperation_notifications() {
+    List<ServerOperation> scheduled = <ServerOperation>[];
+    AnalysisServerMock server = new AnalysisServerMock();
+    when(server.getContainingContext(anyString)).thenReturn(null);
+    when(server.hasAnalysisSubscription(anyObject, anyString))
+        .thenReturn(true);
+    when(server.shouldSendErrorsNotificationFor(anyString)).thenReturn(true);
+    when(server.scheduleOperation(anyObject)).thenInvoke((operation) {
+      scheduled.add(operation);
+      queue.add(operation);
+    });
+    var contextA = new AnalysisContextMock();
+    var contextB = new AnalysisContextMock();
+    CompilationUnit unit = new _CompilationUnitMock();
+    // schedule every kind of notification for the same file and context
+    scheduleNotificationOperations(
+        server, '/a.dart', null, contextA, unit, unit, null);
+    int kindCount = scheduled.length;
+    expect(kindCount, 6);
+    // ...for another file, for another context, and again
+    scheduleNotificationOperations(
+        server, '/b.dart', null, contextA, unit, unit, null);
+    scheduleNotificationOperations(
+        server, '/a.dart', null, contextB, unit, unit, null);
+    scheduleNotificationOperations(
+        server, '/a.dart', null, contextA, unit, unit, null);
+    // only the operations scheduled first are replaced
+    List<ServerOperation> queued = <ServerOperation>[];
+    while (!queue.isEmpty) {
+      queued.add(queue.take());
+    }
+    expect(queued, unorderedEquals(scheduled.sublist(kindCount)));
+  }
+
   void test_clear() {
     var operationA = mockOperation(ServerOperationPriority.ANALYSIS);
     var operationB = mockOperation(ServerOperationPriority.ANALYSIS_CONTINUE);
@@ -182,6 +229,10 @@ class ServerOperationQueueTest {
   }
 }
 
+class _CompilationUnitMock extends TypedMock implements CompilationUnit {
+  noSuchMethod(Invocation invocation) => super.noSuchMethod(invocation);
+}
+
 class _ServerOperationMock extends TypedMock implements ServerOperation {
   final AnalysisContext context;
 
@@ -212,3 +263,22 @@ class _SourceSensitiveOperationMock extends TypedMock
     return source == this.source;
   }
 }
+
+class _SupersedingOperationMock extends TypedMock
+    implements SupersedingOperation {
+  final String file;
+
+  _SupersedingOperationMock(this.file);
+
+  @override
+  ServerOperationPriority get priority {
+    return ServerOperationPriority.ANALYSIS_NOTIFICATION;
+  }
+
+  noSuchMethod(Invocation invocation) => super.noSuchMethod(invocation);
+
+  @override
+  bool supersedes(ServerOperation operation) {
+    return operation is _SupersedingOperationMock && operation.file == file;
+  }
+}
@@ -6,7 +6,9 @@ library test.search.member_declarations;
 
 import 'dart:async';
 
+import 'package:analysis_server/src/constants.dart';
 import 'package:analysis_server/src/protocol.dart';
+import 'package:analysis_server/src/search/search_domain.dart';
 import 'package:test_reflective_loader/test_reflective_loader.dart';
 import 'package:unittest/unittest.dart';
 
@@ -47,6 +49,37 @@ class MemberDeclarationsTest extends AbstractSearchDomainTest {
     return null;
   }
 
+  test_batches() async {
+    addTestFile('''
+class A {
+  foo() {}
+}
+class B {
+  foo() {}
+}
+class C {
+  int foo;
+}
+''');
+    server.handlers = [new SearchDomainHandler(server, resultsBatchSize: 2)];
+    await findMemberDeclarations('foo');
+    expect(results, hasLength(3));
+    assertHasDeclaration(ElementKind.METHOD, 'A');
+    assertHasDeclaration(ElementKind.METHOD, 'B');
+    assertHasDeclaration(ElementKind.FIELD, 'C');
+    List<SearchResultsParams> notifications = serverChannel
+        .notificationsReceived
+        .where((notification) => notification.event == SEARCH_RESULTS)
+        .map((notification) =>
+            new SearchResultsParams.fromNotification(notification))
+        .toList();
+    expect(notifications, hasLength(2));
+    expect(notifications[0].results, hasLength(2));
+    expect(notifications[0].isLast, isFalse);
+    expect(notifications[1].results, hasLength(1));
+    expect(notifications[1].isLast, isTrue);
+  }
+
   test_localVariable() async {
     addTestFile('''
 class A {
@@ -479,6 +479,58 @@ class B extends A with Mixin {}
     expect(memberB.location.offset, findOffset('test(m) {}'));
   }
 
+  test_identicalRequests() async {
+    addTestFile('''
+class A {}
+class B extends A {}
+''');
+    await waitForTasksFinished();
+    int offset = findOffset('B extends A');
+    Request request1 =
+        new SearchGetTypeHierarchyParams(testFile, offset).toRequest('1');
+    Request request2 =
+        new SearchGetTypeHierarchyParams(testFile, offset).toRequest('2');
+    Future<Response> future1 = serverChannel.waitForResponse(request1);
+    Future<Response> future2 = serverChannel.waitForResponse(request2);
+    server.handleRequest(request1);
+    server.handleRequest(request2);
+    // the second request joins the computation of the first one
+    List<TypeHierarchyItem> items1 =
+        new SearchGetTypeHierarchyResult.fromResponse(await future1)
+            .hierarchyItems;
+    List<TypeHierarchyItem> items2 =
+        new SearchGetTypeHierarchyResult.fromResponse(await future2)
+            .hierarchyItems;
+    expect(_toClassNames(items1), unorderedEquals(['A', 'B', 'Object']));
+    expect(_toJson(items2), _toJson(items1));
+  }
+
+  test_identicalRequests_afterChange() async {
+    addTestFile('''
+class A {}
+class B extends A {}
+''');
+    await waitForTasksFinished();
+    int offset = findOffset('B extends A');
+    Request request1 =
+        new SearchGetTypeHierarchyParams(testFile, offset).toRequest('1');
+    Request request2 =
+        new SearchGetTypeHierarchyParams(testFile, offset).toRequest('2');
+    server.handleRequest(request1);
+    // a computation started for the old content is not shared after a change
+    server.updateContent('3', {
+      testFile: new AddContentOverlay('''
+class A {}
+class B {}
+''')
+    });
+    await waitForTasksFinished();
+    Response response = await serverChannel.sendRequest(request2);
+    List<TypeHierarchyItem> items =
+        new SearchGetTypeHierarchyResult.fromResponse(response).hierarchyItems;
+    expect(_toClassNames(items), unorderedEquals(['B', 'Object']));
+  }
+
   test_member_fromField_toField() async {
     addTestFile('''
 class A {
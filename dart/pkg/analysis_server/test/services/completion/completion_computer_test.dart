@@ -149,6 +149,42 @@ class DartCompletionManagerTest extends AbstractSingleUnitTest {
     });
   }
 
+  test_compute_superseded() {
+    contributor1 = new MockCompletionContributor(suggestion1, null);
+    contributor2 = new MockCompletionContributor(null, suggestion2);
+    manager.contributors = [contributor1, contributor2];
+    List<CompletionResult> results1 = <CompletionResult>[];
+    List<CompletionResult> results2 = <CompletionResult>[];
+    bool done1 = false;
+    bool done2 = false;
+    AnalysisServer server = new AnalysisServerMock(searchEngine: searchEngine);
+    CompletionRequest completionRequest1 =
+        new CompletionRequestImpl(server, context, source, 0);
+    CompletionRequest completionRequest2 =
+        new CompletionRequestImpl(server, context, source, 0);
+    manager.results(completionRequest1).listen((CompletionResult r) {
+      results1.add(r);
+      // a new request arrives before the unit is resolved
+      manager.results(completionRequest2).listen(results2.add, onDone: () {
+        done2 = true;
+      });
+      resolveLibrary();
+    }, onDone: () {
+      done1 = true;
+    });
+    return pumpEventQueue().then((_) {
+      // the first request only gets its fast results
+      expect(done1, isTrue);
+      expect(results1, hasLength(1));
+      expect(results1[0].last, isFalse);
+      // the second request gets full results
+      expect(done2, isTrue);
+      expect(results2, hasLength(2));
+      expect(results2[1].last, isTrue);
+      expect(results2[1].suggestions, contains(suggestion2));
+    });
+  }
+
   void _performAnalysis() {
     if (!_continuePerformingAnalysis) {
       return;
@@ -3,7 +3,8 @@
 // BSD-style license that can be found in the LICENSE file.
 
 /**
- * Code generation for the file "AnalysisServer.java".
+ * Code generation for the files "AnalysisServer.java" and
+ * "AsyncAnalysisServer.java".
  */
 library java.generator.server;
 
@@ -15,11 +16,17 @@ final GeneratedFile target = javaGeneratedFile(
     'generated/java/AnalysisServer.java',
     (Api api) => new CodegenAnalysisServer(api));
 
+final GeneratedFile asyncTarget = javaGeneratedFile(
+    'generated/java/AsyncAnalysisServer.java',
+    (Api api) => new CodegenAsyncAnalysisServer(api));
+
 /**
- * Translate spec_input.html into AnalysisServer.java.
+ * Translate spec_input.html into AnalysisServer.java and
+ * AsyncAnalysisServer.java.
  */
 main() {
   target.generate();
+  asyncTarget.generate();
 }
 
 class CodegenAnalysisServer extends CodegenJavaVisitor {
@@ -32,6 +39,17 @@ class CodegenAnalysisServer extends CodegenJavaVisitor {
     return camelJoin([request.method, 'consumer'], doCapitalize: true);
   }
 
+  /**
+   * Write the doc comment for the method sending the given [request].
+   */
+  void requestDocComment(Request request) {
+    docComment(toHtmlVisitor.collectHtml(() {
+      toHtmlVisitor.write('{@code ${request.longMethod }}');
+      toHtmlVisitor.translateHtml(request.html);
+      toHtmlVisitor.javadocParams(request.params);
+    }));
+  }
+
   @override
   void visitApi() {
     outputHeader(javaStyle: true);
@@ -119,11 +137,7 @@ class CodegenAnalysisServer extends CodegenJavaVisitor {
   void visitRequest(Request request) {
     String methodName = '${request.domainName}_${request.method}';
     publicMethod(methodName, () {
-      docComment(toHtmlVisitor.collectHtml(() {
-        toHtmlVisitor.write('{@code ${request.longMethod }}');
-        toHtmlVisitor.translateHtml(request.html);
-        toHtmlVisitor.javadocParams(request.params);
-      }));
+      requestDocComment(request);
       write('public void $methodName(');
       List<String> arguments = [];
       if (request.params != null) {
@@ -139,3 +153,132 @@ class CodegenAnalysisServer extends CodegenJavaVisitor {
     });
   }
 }
+
+/**
+ * Code generator for the interface "AsyncAnalysisServer.java", a variant of
+ * "AnalysisServer.java" in which every request that has a result returns a
+ * `CompletableFuture` of a typed result class instead of taking a consumer.
+ */
+class CodegenAsyncAnalysisServer extends CodegenAnalysisServer {
+  CodegenAsyncAnalysisServer(Api api) : super(api);
+
+  /**
+   * Get the name of the class holding the result of this request.
+   */
+  String resultName(Request request) {
+    return camelJoin([request.method, 'result'], doCapitalize: true);
+  }
+
+  @override
+  void visitApi() {
+    outputHeader(javaStyle: true);
+    writeln('package com.google.dart.server.generated;');
+    writeln();
+    writeln('import com.google.dart.server.generated.types.*;');
+    writeln();
+    writeln('import java.util.List;');
+    writeln('import java.util.Map;');
+    writeln('import java.util.concurrent.CompletableFuture;');
+    writeln();
+    writeln('''/**
+ * The interface {@code AsyncAnalysisServer} defines the behavior of objects that interface to an
+ * analysis server and complete a {@link CompletableFuture} with the result of a request instead of
+ * passing it to a consumer. Requests that don't have a result are sent using {@link AnalysisServer}.
+ * 
+ * @coverage dart.server
+ */''');
+    makeClass('public interface AsyncAnalysisServer', () {
+      api.domains.forEach(visitDomain);
+    });
+  }
+
+  @override
+  void visitRequest(Request request) {
+    if (request.result == null) {
+      return;
+    }
+    String methodName = '${request.domainName}_${request.method}';
+    String className = resultName(request);
+    publicMethod(methodName, () {
+      requestDocComment(request);
+      write('public CompletableFuture<$className> $methodName(');
+      List<String> arguments = [];
+      if (request.params != null) {
+        for (TypeObjectField field in request.params.fields) {
+          arguments.add('${javaType(field.type)} ${javaName(field.name)}');
+        }
+      }
+      write(arguments.join(', '));
+      writeln(');');
+    });
+    innerClass(className, () {
+      _writeResultClass(request, className);
+    });
+  }
+
+  /**
+   * Write the class [className] holding the result of the given [request].
+   */
+  void _writeResultClass(Request request, String className) {
+    javadocComment(toHtmlVisitor.collectHtml(() {
+      toHtmlVisitor
+          .write('The result of the {@code ${request.longMethod}} request.');
+    }));
+    List<TypeObjectField> fields = request.result.fields;
+    makeClass('public static class $className', () {
+      //
+      // "private final Type name;" fields
+      //
+      for (TypeObjectField field in fields) {
+        String name = javaName(field.name);
+        privateField(name, () {
+          javadocComment(toHtmlVisitor.collectHtml(() {
+            toHtmlVisitor.translateHtml(field.html);
+          }));
+          writeln('private final ${javaFieldType(field)} $name;');
+        });
+      }
+      //
+      // constructor
+      //
+      constructor(className, () {
+        javadocComment(toHtmlVisitor.collectHtml(() {
+          toHtmlVisitor.write('Constructor for {@link $className}.');
+        }));
+        write('public $className(');
+        List<String> parameters = <String>[];
+        for (TypeObjectField field in fields) {
+          parameters.add('${javaFieldType(field)} ${javaName(field.name)}');
+        }
+        write(parameters.join(', '));
+        writeln(') {');
+        indent(() {
+          for (TypeObjectField field in fields) {
+            String name = javaName(field.name);
+            writeln('this.$name = $name;');
+          }
+        });
+        writeln('}');
+      });
+      //
+      // getter methods
+      //
+      for (TypeObjectField field in fields) {
+        String type = javaFieldType(field);
+        String name = javaName(field.name);
+        publicMethod('get$name', () {
+          javadocComment(toHtmlVisitor.collectHtml(() {
+            toHtmlVisitor.translateHtml(field.html);
+          }));
+          if (type == 'boolean') {
+            writeln('public $type $name() {');
+          } else {
+            writeln('public $type get${capitalize(name)}() {');
+          }
+          writeln('  return $name;');
+          writeln('}');
+        });
+      }
+    });
+  }
+}
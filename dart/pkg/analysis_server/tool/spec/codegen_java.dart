@@ -52,9 +52,11 @@ class CodegenJavaVisitor extends HierarchicalApiVisitor with CodeGenerator {
    */
   static const Map<String, String> _typeRenames = const {
     'bool': 'boolean',
+    'CompletionId': 'String',
     'int': 'int',
     'ExecutionContextId': 'String',
     'FilePath': 'String',
+    'SearchId': 'String',
     'DebugContextId': 'String',
     'object': 'Object',
     'Override': 'OverrideMember',
@@ -78,6 +80,17 @@ class CodegenJavaVisitor extends HierarchicalApiVisitor with CodeGenerator {
     _state.constructors[name] = collectCode(callback);
   }
 
+  /**
+   * Create a nested class, using [callback] to create its contents. Throw an
+   * exception if a nested class with the same [className] was already created.
+   */
+  void innerClass(String className, void callback()) {
+    if (_state.innerClasses.containsKey(className)) {
+      throw new Exception('Duplicate nested class $className');
+    }
+    _state.innerClasses[className] = collectCode(callback);
+  }
+
   /**
    * Return true iff the passed [TypeDecl] will represent an array in Java.
    */
@@ -191,7 +204,8 @@ class CodegenJavaVisitor extends HierarchicalApiVisitor with CodeGenerator {
 
   /**
    * Execute [callback], collecting any methods that are output using
-   * [privateMethod] or [publicMethod], and insert the class (with methods
+   * [privateMethod] or [publicMethod], and any nested classes that are output
+   * using [innerClass], and insert the class (with methods and nested classes
    * sorted).  [header] is the part of the class declaration before the
    * opening brace.
    */
@@ -225,6 +239,12 @@ class CodegenJavaVisitor extends HierarchicalApiVisitor with CodeGenerator {
           writeln();
           write(method);
         }
+
+        // nested classes (ordered by class name)
+        for (String innerClass in _valuesSortedByKey(_state.innerClasses)) {
+          writeln();
+          write(innerClass);
+        }
         writeln();
       });
       writeln('}');
@@ -299,4 +319,9 @@ class _CodegenJavaState {
    * Temporary storage for constructors.
    */
   Map<String, String> constructors = <String, String>{};
+
+  /**
+   * Temporary storage for nested classes.
+   */
+  Map<String, String> innerClasses = <String, String>{};
 }
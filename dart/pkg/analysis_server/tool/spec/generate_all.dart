@@ -22,6 +22,7 @@ import 'to_html.dart' as to_html;
 List<GeneratedContent> get allTargets {
   List<GeneratedContent> targets = <GeneratedContent>[];
   targets.add(codegen_analysis_server.target);
+  targets.add(codegen_analysis_server.asyncTarget);
   targets.add(codegen_dart_protocol.target);
   targets.add(codegen_java_types.targetDir);
   targets.add(codegen_inttest_methods.target);
@@ -0,0 +1,1053 @@
+/*
+ * Copyright (c) 2014, the Dart project authors.
+ *
+ * Licensed under the Eclipse Public License v1.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ *
+ * This file has been automatically generated.  Please do not edit it manually.
+ * To regenerate the file, use the script "pkg/analysis_server/tool/spec/generate_files".
+ */
+package com.google.dart.server.generated;
+
+import com.google.dart.server.generated.types.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The interface {@code AsyncAnalysisServer} defines the behavior of objects that interface to an
+ * analysis server and complete a {@link CompletableFuture} with the result of a request instead of
+ * passing it to a consumer. Requests that don't have a result are sent using {@link AnalysisServer}.
+ *
+ * @coverage dart.server
+ */
+public interface AsyncAnalysisServer {
+
+  /**
+   * {@code analysis.getErrors}
+   *
+   * Return the errors associated with the given file. If the errors for the given file have not yet
+   * been computed, or the most recently computed errors for the given file are out of date, then the
+   * response for this request will be delayed until they have been computed. If some or all of the
+   * errors for the file cannot be computed, then the subset of the errors that can be computed will
+   * be returned and the response will contain an error to indicate why the errors could not be
+   * computed. If the content of the file changes after this request was received but before a
+   * response could be sent, then an error of type CONTENT_MODIFIED will be generated.
+   *
+   * This request is intended to be used by clients that cannot asynchronously apply updated error
+   * information. Clients that can apply error information as it becomes available should use the
+   * information provided by the 'analysis.errors' notification.
+   *
+   * If a request is made for a file which does not exist, or which is not currently subject to
+   * analysis (e.g. because it is not associated with any analysis root specified to
+   * analysis.setAnalysisRoots), an error of type GET_ERRORS_INVALID_FILE will be generated.
+   *
+   * @param file The file for which errors are being requested.
+   */
+  public CompletableFuture<GetErrorsResult> analysis_getErrors(String file);
+
+  /**
+   * {@code analysis.getHover}
+   *
+   * Return the hover information associate with the given location. If some or all of the hover
+   * information is not available at the time this request is processed the information will be
+   * omitted from the response.
+   *
+   * @param file The file in which hover information is being requested.
+   * @param offset The offset for which hover information is being requested.
+   */
+  public CompletableFuture<GetHoverResult> analysis_getHover(String file, int offset);
+
+  /**
+   * {@code analysis.getLibraryDependencies}
+   *
+   * Return library dependency information for use in client-side indexing and package URI
+   * resolution.
+   */
+  public CompletableFuture<GetLibraryDependenciesResult> analysis_getLibraryDependencies();
+
+  /**
+   * {@code analysis.getNavigation}
+   *
+   * Return the navigation information associated with the given region of the given file. If the
+   * navigation information for the given file has not yet been computed, or the most recently
+   * computed navigation information for the given file is out of date, then the response for this
+   * request will be delayed until it has been computed. If the content of the file changes after
+   * this request was received but before a response could be sent, then an error of type
+   * CONTENT_MODIFIED will be generated.
+   *
+   * If a navigation region overlaps (but extends either before or after) the given region of the
+   * file it will be included in the result. This means that it is theoretically possible to get the
+   * same navigation region in response to multiple requests. Clients can avoid this by always
+   * choosing a region that starts at the beginning of a line and ends at the end of a (possibly
+   * different) line in the file.
+   *
+   * @param file The file in which navigation information is being requested.
+   * @param offset The offset of the region for which navigation information is being requested.
+   * @param length The length of the region for which navigation information is being requested.
+   */
+  public CompletableFuture<GetNavigationResult> analysis_getNavigation(String file, int offset, int length);
+
+  /**
+   * {@code analysis.updateContent}
+   *
+   * Update the content of one or more files. Files that were previously updated but not included in
+   * this update remain unchanged. This effectively represents an overlay of the filesystem. The
+   * files whose content is overridden are therefore seen by server as being files with the given
+   * content, even if the files do not exist on the filesystem or if the file path represents the
+   * path to a directory on the filesystem.
+   *
+   * @param files A table mapping the files whose content has changed to a description of the content
+   *         change.
+   */
+  public CompletableFuture<UpdateContentResult> analysis_updateContent(Map<String, Object> files);
+
+  /**
+   * {@code completion.getSuggestions}
+   *
+   * Request that completion suggestions for the given offset in the given file be returned.
+   *
+   * @param file The file containing the point at which suggestions are to be made.
+   * @param offset The offset within the file at which suggestions are to be made.
+   */
+  public CompletableFuture<GetSuggestionsResult> completion_getSuggestions(String file, int offset);
+
+  /**
+   * {@code edit.format}
+   *
+   * Format the contents of a single file. The currently selected region of text is passed in so that
+   * the selection can be preserved across the formatting operation. The updated selection will be as
+   * close to matching the original as possible, but whitespace at the beginning or end of the
+   * selected region will be ignored. If preserving selection information is not required, zero (0)
+   * can be specified for both the selection offset and selection length.
+   *
+   * If a request is made for a file which does not exist, or which is not currently subject to
+   * analysis (e.g. because it is not associated with any analysis root specified to
+   * analysis.setAnalysisRoots), an error of type FORMAT_INVALID_FILE will be generated. If the
+   * source contains syntax errors, an error of type FORMAT_WITH_ERRORS will be generated.
+   *
+   * @param file The file containing the code to be formatted.
+   * @param selectionOffset The offset of the current selection in the file.
+   * @param selectionLength The length of the current selection in the file.
+   */
+  public CompletableFuture<FormatResult> edit_format(String file, int selectionOffset, int selectionLength);
+
+  /**
+   * {@code edit.getAssists}
+   *
+   * Return the set of assists that are available at the given location. An assist is distinguished
+   * from a refactoring primarily by the fact that it affects a single file and does not require user
+   * input in order to be performed.
+   *
+   * @param file The file containing the code for which assists are being requested.
+   * @param offset The offset of the code for which assists are being requested.
+   * @param length The length of the code for which assists are being requested.
+   */
+  public CompletableFuture<GetAssistsResult> edit_getAssists(String file, int offset, int length);
+
+  /**
+   * {@code edit.getAvailableRefactorings}
+   *
+   * Get a list of the kinds of refactorings that are valid for the given selection in the given
+   * file.
+   *
+   * @param file The file containing the code on which the refactoring would be based.
+   * @param offset The offset of the code on which the refactoring would be based.
+   * @param length The length of the code on which the refactoring would be based.
+   */
+  public CompletableFuture<GetAvailableRefactoringsResult> edit_getAvailableRefactorings(String file, int offset, int length);
+
+  /**
+   * {@code edit.getFixes}
+   *
+   * Return the set of fixes that are available for the errors at a given offset in a given file.
+   *
+   * @param file The file containing the errors for which fixes are being requested.
+   * @param offset The offset used to select the errors for which fixes will be returned.
+   */
+  public CompletableFuture<GetFixesResult> edit_getFixes(String file, int offset);
+
+  /**
+   * {@code edit.getRefactoring}
+   *
+   * Get the changes required to perform a refactoring.
+   *
+   * If another refactoring request is received during the processing of this one, an error of type
+   * REFACTORING_REQUEST_CANCELLED will be generated.
+   *
+   * @param kind The kind of refactoring to be performed.
+   * @param file The file containing the code involved in the refactoring.
+   * @param offset The offset of the region involved in the refactoring.
+   * @param length The length of the region involved in the refactoring.
+   * @param validateOnly True if the client is only requesting that the values of the options be
+   *         validated and no change be generated.
+   * @param options Data used to provide values provided by the user. The structure of the data is
+   *         dependent on the kind of refactoring being performed. The data that is expected is
+   *         documented in the section titled Refactorings, labeled as “Options”. This field can be
+   *         omitted if the refactoring does not require any options or if the values of those
+   *         options are not known.
+   */
+  public CompletableFuture<GetRefactoringResult> edit_getRefactoring(String kind, String file, int offset, int length, boolean validateOnly, RefactoringOptions options);
+
+  /**
+   * {@code edit.sortMembers}
+   *
+   * Sort all of the directives, unit and class members of the given Dart file.
+   *
+   * If a request is made for a file that does not exist, does not belong to an analysis root or is
+   * not a Dart file, SORT_MEMBERS_INVALID_FILE will be generated.
+   *
+   * If the Dart file has scan or parse errors, SORT_MEMBERS_PARSE_ERRORS will be generated.
+   *
+   * @param file The Dart file to sort.
+   */
+  public CompletableFuture<SortMembersResult> edit_sortMembers(String file);
+
+  /**
+   * {@code execution.createContext}
+   *
+   * Create an execution context for the executable file with the given path. The context that is
+   * created will persist until execution.deleteContext is used to delete it. Clients, therefore, are
+   * responsible for managing the lifetime of execution contexts.
+   *
+   * @param contextRoot The path of the Dart or HTML file that will be launched, or the path of the
+   *         directory containing the file.
+   */
+  public CompletableFuture<CreateContextResult> execution_createContext(String contextRoot);
+
+  /**
+   * {@code execution.mapUri}
+   *
+   * Map a URI from the execution context to the file that it corresponds to, or map a file to the
+   * URI that it corresponds to in the execution context.
+   *
+   * Exactly one of the file and uri fields must be provided. If both fields are provided, then an
+   * error of type INVALID_PARAMETER will be generated. Similarly, if neither field is provided, then
+   * an error of type INVALID_PARAMETER will be generated.
+   *
+   * If the file field is provided and the value is not the path of a file (either the file does not
+   * exist or the path references something other than a file), then an error of type
+   * INVALID_PARAMETER will be generated.
+   *
+   * If the uri field is provided and the value is not a valid URI or if the URI references something
+   * that is not a file (either a file that does not exist or something other than a file), then an
+   * error of type INVALID_PARAMETER will be generated.
+   *
+   * If the contextRoot used to create the execution context does not exist, then an error of type
+   * INVALID_EXECUTION_CONTEXT will be generated.
+   *
+   * @param id The identifier of the execution context in which the URI is to be mapped.
+   * @param file The path of the file to be mapped into a URI.
+   * @param uri The URI to be mapped into a file path.
+   */
+  public CompletableFuture<MapUriResult> execution_mapUri(String id, String file, String uri);
+
+  /**
+   * {@code search.findElementReferences}
+   *
+   * Perform a search for references to the element defined or referenced at the given offset in the
+   * given file.
+   *
+   * An identifier is returned immediately, and individual results will be returned via the
+   * search.results notification as they become available.
+   *
+   * @param file The file containing the declaration of or reference to the element used to define
+   *         the search.
+   * @param offset The offset within the file of the declaration of or reference to the element.
+   * @param includePotential True if potential matches are to be included in the results.
+   */
+  public CompletableFuture<FindElementReferencesResult> search_findElementReferences(String file, int offset, boolean includePotential);
+
+  /**
+   * {@code search.findMemberDeclarations}
+   *
+   * Perform a search for declarations of members whose name is equal to the given name.
+   *
+   * An identifier is returned immediately, and individual results will be returned via the
+   * search.results notification as they become available.
+   *
+   * @param name The name of the declarations to be found.
+   */
+  public CompletableFuture<FindMemberDeclarationsResult> search_findMemberDeclarations(String name);
+
+  /**
+   * {@code search.findMemberReferences}
+   *
+   * Perform a search for references to members whose name is equal to the given name. This search
+   * does not check to see that there is a member defined with the given name, so it is able to find
+   * references to undefined members as well.
+   *
+   * An identifier is returned immediately, and individual results will be returned via the
+   * search.results notification as they become available.
+   *
+   * @param name The name of the references to be found.
+   */
+  public CompletableFuture<FindMemberReferencesResult> search_findMemberReferences(String name);
+
+  /**
+   * {@code search.findTopLevelDeclarations}
+   *
+   * Perform a search for declarations of top-level elements (classes, typedefs, getters, setters,
+   * functions and fields) whose name matches the given pattern.
+   *
+   * An identifier is returned immediately, and individual results will be returned via the
+   * search.results notification as they become available.
+   *
+   * @param pattern The regular expression used to match the names of the declarations to be found.
+   */
+  public CompletableFuture<FindTopLevelDeclarationsResult> search_findTopLevelDeclarations(String pattern);
+
+  /**
+   * {@code search.getTypeHierarchy}
+   *
+   * Return the type hierarchy of the class declared or referenced at the given location.
+   *
+   * @param file The file containing the declaration or reference to the type for which a hierarchy
+   *         is being requested.
+   * @param offset The offset of the name of the type within the file.
+   */
+  public CompletableFuture<GetTypeHierarchyResult> search_getTypeHierarchy(String file, int offset);
+
+  /**
+   * {@code server.getVersion}
+   *
+   * Return the version number of the analysis server.
+   */
+  public CompletableFuture<GetVersionResult> server_getVersion();
+
+  /**
+   * The result of the {@code execution.createContext} request.
+   */
+  public static class CreateContextResult {
+
+    /**
+     * The identifier used to refer to the execution context that was created.
+     */
+    private final String id;
+
+    /**
+     * Constructor for {@link CreateContextResult}.
+     */
+    public CreateContextResult(String id) {
+      this.id = id;
+    }
+
+    /**
+     * The identifier used to refer to the execution context that was created.
+     */
+    public String getId() {
+      return id;
+    }
+
+  }
+
+  /**
+   * The result of the {@code search.findElementReferences} request.
+   */
+  public static class FindElementReferencesResult {
+
+    /**
+     * The identifier used to associate results with this search request.
+     *
+     * If no element was found at the given location, this field will be absent, and no results will be
+     * reported via the search.results notification.
+     */
+    private final String id;
+
+    /**
+     * The element referenced or defined at the given offset and whose references will be returned in
+     * the search results.
+     *
+     * If no element was found at the given location, this field will be absent.
+     */
+    private final Element element;
+
+    /**
+     * Constructor for {@link FindElementReferencesResult}.
+     */
+    public FindElementReferencesResult(String id, Element element) {
+      this.id = id;
+      this.element = element;
+    }
+
+    /**
+     * The element referenced or defined at the given offset and whose references will be returned in
+     * the search results.
+     *
+     * If no element was found at the given location, this field will be absent.
+     */
+    public Element getElement() {
+      return element;
+    }
+
+    /**
+     * The identifier used to associate results with this search request.
+     *
+     * If no element was found at the given location, this field will be absent, and no results will be
+     * reported via the search.results notification.
+     */
+    public String getId() {
+      return id;
+    }
+
+  }
+
+  /**
+   * The result of the {@code search.findMemberDeclarations} request.
+   */
+  public static class FindMemberDeclarationsResult {
+
+    /**
+     * The identifier used to associate results with this search request.
+     */
+    private final String id;
+
+    /**
+     * Constructor for {@link FindMemberDeclarationsResult}.
+     */
+    public FindMemberDeclarationsResult(String id) {
+      this.id = id;
+    }
+
+    /**
+     * The identifier used to associate results with this search request.
+     */
+    public String getId() {
+      return id;
+    }
+
+  }
+
+  /**
+   * The result of the {@code search.findMemberReferences} request.
+   */
+  public static class FindMemberReferencesResult {
+
+    /**
+     * The identifier used to associate results with this search request.
+     */
+    private final String id;
+
+    /**
+     * Constructor for {@link FindMemberReferencesResult}.
+     */
+    public FindMemberReferencesResult(String id) {
+      this.id = id;
+    }
+
+    /**
+     * The identifier used to associate results with this search request.
+     */
+    public String getId() {
+      return id;
+    }
+
+  }
+
+  /**
+   * The result of the {@code search.findTopLevelDeclarations} request.
+   */
+  public static class FindTopLevelDeclarationsResult {
+
+    /**
+     * The identifier used to associate results with this search request.
+     */
+    private final String id;
+
+    /**
+     * Constructor for {@link FindTopLevelDeclarationsResult}.
+     */
+    public FindTopLevelDeclarationsResult(String id) {
+      this.id = id;
+    }
+
+    /**
+     * The identifier used to associate results with this search request.
+     */
+    public String getId() {
+      return id;
+    }
+
+  }
+
+  /**
+   * The result of the {@code edit.format} request.
+   */
+  public static class FormatResult {
+
+    /**
+     * The edit(s) to be applied in order to format the code. The list will be empty if the code was
+     * already formatted (there are no changes).
+     */
+    private final List<SourceEdit> edits;
+
+    /**
+     * The offset of the selection after formatting the code.
+     */
+    private final int selectionOffset;
+
+    /**
+     * The length of the selection after formatting the code.
+     */
+    private final int selectionLength;
+
+    /**
+     * Constructor for {@link FormatResult}.
+     */
+    public FormatResult(List<SourceEdit> edits, int selectionOffset, int selectionLength) {
+      this.edits = edits;
+      this.selectionOffset = selectionOffset;
+      this.selectionLength = selectionLength;
+    }
+
+    /**
+     * The edit(s) to be applied in order to format the code. The list will be empty if the code was
+     * already formatted (there are no changes).
+     */
+    public List<SourceEdit> getEdits() {
+      return edits;
+    }
+
+    /**
+     * The length of the selection after formatting the code.
+     */
+    public int getSelectionLength() {
+      return selectionLength;
+    }
+
+    /**
+     * The offset of the selection after formatting the code.
+     */
+    public int getSelectionOffset() {
+      return selectionOffset;
+    }
+
+  }
+
+  /**
+   * The result of the {@code edit.getAssists} request.
+   */
+  public static class GetAssistsResult {
+
+    /**
+     * The assists that are available at the given location.
+     */
+    private final List<SourceChange> assists;
+
+    /**
+     * Constructor for {@link GetAssistsResult}.
+     */
+    public GetAssistsResult(List<SourceChange> assists) {
+      this.assists = assists;
+    }
+
+    /**
+     * The assists that are available at the given location.
+     */
+    public List<SourceChange> getAssists() {
+      return assists;
+    }
+
+  }
+
+  /**
+   * The result of the {@code edit.getAvailableRefactorings} request.
+   */
+  public static class GetAvailableRefactoringsResult {
+
+    /**
+     * The kinds of refactorings that are valid for the given selection.
+     */
+    private final List<String> kinds;
+
+    /**
+     * Constructor for {@link GetAvailableRefactoringsResult}.
+     */
+    public GetAvailableRefactoringsResult(List<String> kinds) {
+      this.kinds = kinds;
+    }
+
+    /**
+     * The kinds of refactorings that are valid for the given selection.
+     */
+    public List<String> getKinds() {
+      return kinds;
+    }
+
+  }
+
+  /**
+   * The result of the {@code analysis.getErrors} request.
+   */
+  public static class GetErrorsResult {
+
+    /**
+     * The errors associated with the file.
+     */
+    private final List<AnalysisError> errors;
+
+    /**
+     * Constructor for {@link GetErrorsResult}.
+     */
+    public GetErrorsResult(List<AnalysisError> errors) {
+      this.errors = errors;
+    }
+
+    /**
+     * The errors associated with the file.
+     */
+    public List<AnalysisError> getErrors() {
+      return errors;
+    }
+
+  }
+
+  /**
+   * The result of the {@code edit.getFixes} request.
+   */
+  public static class GetFixesResult {
+
+    /**
+     * The fixes that are available for the errors at the given offset.
+     */
+    private final List<AnalysisErrorFixes> fixes;
+
+    /**
+     * Constructor for {@link GetFixesResult}.
+     */
+    public GetFixesResult(List<AnalysisErrorFixes> fixes) {
+      this.fixes = fixes;
+    }
+
+    /**
+     * The fixes that are available for the errors at the given offset.
+     */
+    public List<AnalysisErrorFixes> getFixes() {
+      return fixes;
+    }
+
+  }
+
+  /**
+   * The result of the {@code analysis.getHover} request.
+   */
+  public static class GetHoverResult {
+
+    /**
+     * The hover information associated with the location. The list will be empty if no information
+     * could be determined for the location. The list can contain multiple items if the file is being
+     * analyzed in multiple contexts in conflicting ways (such as a part that is included in multiple
+     * libraries).
+     */
+    private final List<HoverInformation> hovers;
+
+    /**
+     * Constructor for {@link GetHoverResult}.
+     */
+    public GetHoverResult(List<HoverInformation> hovers) {
+      this.hovers = hovers;
+    }
+
+    /**
+     * The hover information associated with the location. The list will be empty if no information
+     * could be determined for the location. The list can contain multiple items if the file is being
+     * analyzed in multiple contexts in conflicting ways (such as a part that is included in multiple
+     * libraries).
+     */
+    public List<HoverInformation> getHovers() {
+      return hovers;
+    }
+
+  }
+
+  /**
+   * The result of the {@code analysis.getLibraryDependencies} request.
+   */
+  public static class GetLibraryDependenciesResult {
+
+    /**
+     * A list of the paths of library elements referenced by files in existing analysis roots.
+     */
+    private final List<String> libraries;
+
+    /**
+     * A mapping from context source roots to package maps which map package names to source
+     * directories for use in client-side package URI resolution.
+     */
+    private final Map<String, Map<String, List<String>>> packageMap;
+
+    /**
+     * Constructor for {@link GetLibraryDependenciesResult}.
+     */
+    public GetLibraryDependenciesResult(List<String> libraries, Map<String, Map<String, List<String>>> packageMap) {
+      this.libraries = libraries;
+      this.packageMap = packageMap;
+    }
+
+    /**
+     * A list of the paths of library elements referenced by files in existing analysis roots.
+     */
+    public List<String> getLibraries() {
+      return libraries;
+    }
+
+    /**
+     * A mapping from context source roots to package maps which map package names to source
+     * directories for use in client-side package URI resolution.
+     */
+    public Map<String, Map<String, List<String>>> getPackageMap() {
+      return packageMap;
+    }
+
+  }
+
+  /**
+   * The result of the {@code analysis.getNavigation} request.
+   */
+  public static class GetNavigationResult {
+
+    /**
+     * A list of the paths of files that are referenced by the navigation targets.
+     */
+    private final List<String> files;
+
+    /**
+     * A list of the navigation targets that are referenced by the navigation regions.
+     */
+    private final List<NavigationTarget> targets;
+
+    /**
+     * A list of the navigation regions within the requested region of the file.
+     */
+    private final List<NavigationRegion> regions;
+
+    /**
+     * Constructor for {@link GetNavigationResult}.
+     */
+    public GetNavigationResult(List<String> files, List<NavigationTarget> targets, List<NavigationRegion> regions) {
+      this.files = files;
+      this.targets = targets;
+      this.regions = regions;
+    }
+
+    /**
+     * A list of the paths of files that are referenced by the navigation targets.
+     */
+    public List<String> getFiles() {
+      return files;
+    }
+
+    /**
+     * A list of the navigation regions within the requested region of the file.
+     */
+    public List<NavigationRegion> getRegions() {
+      return regions;
+    }
+
+    /**
+     * A list of the navigation targets that are referenced by the navigation regions.
+     */
+    public List<NavigationTarget> getTargets() {
+      return targets;
+    }
+
+  }
+
+  /**
+   * The result of the {@code edit.getRefactoring} request.
+   */
+  public static class GetRefactoringResult {
+
+    /**
+     * The initial status of the refactoring, i.e. problems related to the context in which the
+     * refactoring is requested. The array will be empty if there are no known problems.
+     */
+    private final List<RefactoringProblem> initialProblems;
+
+    /**
+     * The options validation status, i.e. problems in the given options, such as light-weight
+     * validation of a new name, flags compatibility, etc. The array will be empty if there are no
+     * known problems.
+     */
+    private final List<RefactoringProblem> optionsProblems;
+
+    /**
+     * The final status of the refactoring, i.e. problems identified in the result of a full,
+     * potentially expensive validation and / or change creation. The array will be empty if there are
+     * no known problems.
+     */
+    private final List<RefactoringProblem> finalProblems;
+
+    /**
+     * Data used to provide feedback to the user. The structure of the data is dependent on the kind of
+     * refactoring being created. The data that is returned is documented in the section titled
+     * Refactorings, labeled as “Feedback”.
+     */
+    private final RefactoringFeedback feedback;
+
+    /**
+     * The changes that are to be applied to affect the refactoring. This field will be omitted if
+     * there are problems that prevent a set of changes from being computed, such as having no options
+     * specified for a refactoring that requires them, or if only validation was requested.
+     */
+    private final SourceChange change;
+
+    /**
+     * The ids of source edits that are not known to be valid. An edit is not known to be valid if
+     * there was insufficient type information for the server to be able to determine whether or not
+     * the code needs to be modified, such as when a member is being renamed and there is a reference
+     * to a member from an unknown type. This field will be omitted if the change field is omitted or
+     * if there are no potential edits for the refactoring.
+     */
+    private final List<String> potentialEdits;
+
+    /**
+     * Constructor for {@link GetRefactoringResult}.
+     */
+    public GetRefactoringResult(List<RefactoringProblem> initialProblems, List<RefactoringProblem> optionsProblems, List<RefactoringProblem> finalProblems, RefactoringFeedback feedback, SourceChange change, List<String> potentialEdits) {
+      this.initialProblems = initialProblems;
+      this.optionsProblems = optionsProblems;
+      this.finalProblems = finalProblems;
+      this.feedback = feedback;
+      this.change = change;
+      this.potentialEdits = potentialEdits;
+    }
+
+    /**
+     * The changes that are to be applied to affect the refactoring. This field will be omitted if
+     * there are problems that prevent a set of changes from being computed, such as having no options
+     * specified for a refactoring that requires them, or if only validation was requested.
+     */
+    public SourceChange getChange() {
+      return change;
+    }
+
+    /**
+     * Data used to provide feedback to the user. The structure of the data is dependent on the kind of
+     * refactoring being created. The data that is returned is documented in the section titled
+     * Refactorings, labeled as “Feedback”.
+     */
+    public RefactoringFeedback getFeedback() {
+      return feedback;
+    }
+
+    /**
+     * The final status of the refactoring, i.e. problems identified in the result of a full,
+     * potentially expensive validation and / or change creation. The array will be empty if there are
+     * no known problems.
+     */
+    public List<RefactoringProblem> getFinalProblems() {
+      return finalProblems;
+    }
+
+    /**
+     * The initial status of the refactoring, i.e. problems related to the context in which the
+     * refactoring is requested. The array will be empty if there are no known problems.
+     */
+    public List<RefactoringProblem> getInitialProblems() {
+      return initialProblems;
+    }
+
+    /**
+     * The options validation status, i.e. problems in the given options, such as light-weight
+     * validation of a new name, flags compatibility, etc. The array will be empty if there are no
+     * known problems.
+     */
+    public List<RefactoringProblem> getOptionsProblems() {
+      return optionsProblems;
+    }
+
+    /**
+     * The ids of source edits that are not known to be valid. An edit is not known to be valid if
+     * there was insufficient type information for the server to be able to determine whether or not
+     * the code needs to be modified, such as when a member is being renamed and there is a reference
+     * to a member from an unknown type. This field will be omitted if the change field is omitted or
+     * if there are no potential edits for the refactoring.
+     */
+    public List<String> getPotentialEdits() {
+      return potentialEdits;
+    }
+
+  }
+
+  /**
+   * The result of the {@code completion.getSuggestions} request.
+   */
+  public static class GetSuggestionsResult {
+
+    /**
+     * The identifier used to associate results with this completion request.
+     */
+    private final String id;
+
+    /**
+     * Constructor for {@link GetSuggestionsResult}.
+     */
+    public GetSuggestionsResult(String id) {
+      this.id = id;
+    }
+
+    /**
+     * The identifier used to associate results with this completion request.
+     */
+    public String getId() {
+      return id;
+    }
+
+  }
+
+  /**
+   * The result of the {@code search.getTypeHierarchy} request.
+   */
+  public static class GetTypeHierarchyResult {
+
+    /**
+     * A list of the types in the requested hierarchy. The first element of the list is the item
+     * representing the type for which the hierarchy was requested. The index of other elements of the
+     * list is unspecified, but correspond to the integers used to reference supertype and subtype
+     * items within the items.
+     *
+     * This field will be absent if the code at the given file and offset does not represent a type, or
+     * if the file has not been sufficiently analyzed to allow a type hierarchy to be produced.
+     */
+    private final List<TypeHierarchyItem> hierarchyItems;
+
+    /**
+     * Constructor for {@link GetTypeHierarchyResult}.
+     */
+    public GetTypeHierarchyResult(List<TypeHierarchyItem> hierarchyItems) {
+      this.hierarchyItems = hierarchyItems;
+    }
+
+    /**
+     * A list of the types in the requested hierarchy. The first element of the list is the item
+     * representing the type for which the hierarchy was requested. The index of other elements of the
+     * list is unspecified, but correspond to the integers used to reference supertype and subtype
+     * items within the items.
+     *
+     * This field will be absent if the code at the given file and offset does not represent a type, or
+     * if the file has not been sufficiently analyzed to allow a type hierarchy to be produced.
+     */
+    public List<TypeHierarchyItem> getHierarchyItems() {
+      return hierarchyItems;
+    }
+
+  }
+
+  /**
+   * The result of the {@code server.getVersion} request.
+   */
+  public static class GetVersionResult {
+
+    /**
+     * The version number of the analysis server.
+     */
+    private final String version;
+
+    /**
+     * Constructor for {@link GetVersionResult}.
+     */
+    public GetVersionResult(String version) {
+      this.version = version;
+    }
+
+    /**
+     * The version number of the analysis server.
+     */
+    public String getVersion() {
+      return version;
+    }
+
+  }
+
+  /**
+   * The result of the {@code execution.mapUri} request.
+   */
+  public static class MapUriResult {
+
+    /**
+     * The file to which the URI was mapped. This field is omitted if the uri field was not given in
+     * the request.
+     */
+    private final String file;
+
+    /**
+     * The URI to which the file path was mapped. This field is omitted if the file field was not given
+     * in the request.
+     */
+    private final String uri;
+
+    /**
+     * Constructor for {@link MapUriResult}.
+     */
+    public MapUriResult(String file, String uri) {
+      this.file = file;
+      this.uri = uri;
+    }
+
+    /**
+     * The file to which the URI was mapped. This field is omitted if the uri field was not given in
+     * the request.
+     */
+    public String getFile() {
+      return file;
+    }
+
+    /**
+     * The URI to which the file path was mapped. This field is omitted if the file field was not given
+     * in the request.
+     */
+    public String getUri() {
+      return uri;
+    }
+
+  }
+
+  /**
+   * The result of the {@code edit.sortMembers} request.
+   */
+  public static class SortMembersResult {
+
+    /**
+     * The file edit that is to be applied to the given file to effect the sorting.
+     */
+    private final SourceFileEdit edit;
+
+    /**
+     * Constructor for {@link SortMembersResult}.
+     */
+    public SortMembersResult(SourceFileEdit edit) {
+      this.edit = edit;
+    }
+
+    /**
+     * The file edit that is to be applied to the given file to effect the sorting.
+     */
+    public SourceFileEdit getEdit() {
+      return edit;
+    }
+
+  }
+
+  /**
+   * The result of the {@code analysis.updateContent} request.
+   */
+  public static class UpdateContentResult {
+
+    /**
+     * Constructor for {@link UpdateContentResult}.
+     */
+    public UpdateContentResult() {
+    }
+
+  }
+
+}